@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# Measures time from process launch until the API answers its first request.
+#
+# Usage: scripts/startup-benchmark.sh <jar|native|crac> [iterations]
+#
+#   jar     plain executable jar            (./mvnw package)
+#   native  GraalVM native image            (./mvnw -Pnative native:compile)
+#   crac    restore from a CRaC checkpoint  (./mvnw -Pcrac package, CRaC-enabled JDK,
+#                                            checkpoint is created on the first run)
+set -euo pipefail
+
+MODE=${1:?Usage: startup-benchmark.sh <jar|native|crac> [iterations]}
+ITERATIONS=${2:-5}
+PORT=${PORT:-8080}
+STARTUP_TIMEOUT_SECONDS=${STARTUP_TIMEOUT_SECONDS:-120}
+URL="http://localhost:${PORT}/api/v1/credit/cards"
+JAR=$(ls target/credit-card-recommender-*.jar 2>/dev/null | grep -v '\.original$' | head -1 || true)
+CHECKPOINT_DIR=${CHECKPOINT_DIR:-target/crac-checkpoint}
+# Baked into the CRaC checkpoint, so it must outlive a single run
+AUDIT_DIR=target/benchmark-decision-log
+
+now_ms() {
+    date +%s%3N
+}
+
+launch() {
+    case "$MODE" in
+        jar)
+            java -jar "$JAR" --server.port="$PORT" --credit.audit.directory="$AUDIT_DIR" &
+            ;;
+        native)
+            target/credit-card-recommender --server.port="$PORT" --credit.audit.directory="$AUDIT_DIR" &
+            ;;
+        crac)
+            java -XX:CRaCRestoreFrom="$CHECKPOINT_DIR" &
+            ;;
+        *)
+            echo "Unknown mode: $MODE" >&2
+            exit 1
+            ;;
+    esac
+    PID=$!
+}
+
+wait_until_ready() {
+    local deadline=$(( $(date +%s) + STARTUP_TIMEOUT_SECONDS ))
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$PID" 2>/dev/null; then
+            wait "$PID" 2>/dev/null || true
+            echo "Application exited before answering $URL" >&2
+            exit 1
+        fi
+        if [ "$(date +%s)" -ge "$deadline" ]; then
+            kill "$PID" 2>/dev/null || true
+            echo "Application did not answer $URL within ${STARTUP_TIMEOUT_SECONDS}s" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+}
+
+if [ "$MODE" = "crac" ] && [ ! -d "$CHECKPOINT_DIR" ]; then
+    echo "Creating CRaC checkpoint in $CHECKPOINT_DIR"
+    # The JVM exits once the checkpoint is written
+    java -Dspring.context.checkpoint=onRefresh -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" \
+        -jar "$JAR" --server.port="$PORT" --credit.audit.directory="$AUDIT_DIR" || true
+fi
+
+total=0
+for i in $(seq 1 "$ITERATIONS"); do
+    start=$(now_ms)
+    launch
+    wait_until_ready
+    elapsed=$(( $(now_ms) - start ))
+    kill "$PID"
+    wait "$PID" 2>/dev/null || true
+    echo "run $i: ${elapsed} ms"
+    total=$(( total + elapsed ))
+done
+
+echo "$MODE: mean time to first response $(( total / ITERATIONS )) ms over $ITERATIONS runs"
@@ -0,0 +1,199 @@
+package com.credit.audit;
+
+import com.credit.model.DecisionRecord;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only audit log of category decisions.
+ * Request threads only claim a ring buffer slot; a background thread drains
+ * records in batches into memory-mapped segment files.
+ * Runs as a lifecycle bean so no segment is held open across a CRaC checkpoint.
+ */
+@Component
+public class DecisionLog implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(DecisionLog.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final int batchSize;
+    private final long maxWaitNanos;
+    private final DecisionRingBuffer<DecisionRecord> ringBuffer;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong lost = new AtomicLong();
+    private final AtomicLong backpressureWaits = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean lostWhileStoppedLogged = new AtomicBoolean();
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private volatile Thread drainer;
+    private DecisionSegmentWriter writer;
+
+    public DecisionLog(@Value("${credit.audit.enabled:true}") boolean enabled,
+                       @Value("${credit.audit.directory:decision-log}") String directory,
+                       @Value("${credit.audit.ring-capacity:65536}") int ringCapacity,
+                       @Value("${credit.audit.segment-size:67108864}") int segmentSize,
+                       @Value("${credit.audit.batch-size:1024}") int batchSize,
+                       @Value("${credit.audit.max-wait-millis:5000}") long maxWaitMillis) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.batchSize = batchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.ringBuffer = new DecisionRingBuffer<>(ringCapacity);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            logger.info("Decision audit log is disabled");
+            return;
+        }
+        try {
+            writer = openWriter();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open decision log in " + directory, e);
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "decision-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+        lostWhileStoppedLogged.set(false);
+        accepting = true;
+        logger.info("Decision audit log writing to {}", directory.toAbsolutePath());
+    }
+
+    DecisionSegmentWriter openWriter() throws IOException {
+        return new DecisionSegmentWriter(directory, segmentSize);
+    }
+
+    public void record(DecisionRecord record) {
+        if (!enabled) {
+            return;
+        }
+        // Registering before checking accepting lets stop() wait for every producer that got past the check
+        inFlight.incrementAndGet();
+        try {
+            if (!accepting) {
+                lost.incrementAndGet();
+                // Warn once per stopped period; the total is reported by stop() and getLostCount()
+                if (lostWhileStoppedLogged.compareAndSet(false, true)) {
+                    logger.warn("Decision log is not running; decisions are not being recorded");
+                }
+                return;
+            }
+            // Every decision must be kept, so a full buffer waits for the writer rather than dropping,
+            // but only for as long as the writer is alive and within the configured bound
+            long deadline = System.nanoTime() + maxWaitNanos;
+            while (!ringBuffer.offer(record)) {
+                if (!drainer.isAlive() || System.nanoTime() - deadline > 0) {
+                    lost.incrementAndGet();
+                    throw new IllegalStateException("Decision log writer is not draining; decision was not recorded");
+                }
+                backpressureWaits.incrementAndGet();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getLostCount() {
+        return lost.get();
+    }
+
+    public long getBackpressureWaits() {
+        return backpressureWaits.get();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        accepting = false;
+        while (inFlight.get() > 0) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        running = false;
+        try {
+            drainer.join();
+            writer.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.error("Failed to close decision log segment", e);
+        }
+        logger.info("Decision audit log closed after {} records", written.get());
+        if (lost.get() > 0) {
+            logger.warn("Decision audit log lost {} records", lost.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start before and stop after the web server so no served request goes unrecorded
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                if (drainBatch() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            } catch (RuntimeException e) {
+                // Keep draining so request threads are never left waiting on a dead writer
+                logger.error("Decision log writer failed to flush", e);
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // Flush whatever was claimed before shutdown
+        try {
+            while (drainBatch() > 0) {
+            }
+        } catch (RuntimeException e) {
+            logger.error("Decision log writer failed to flush during shutdown", e);
+        }
+    }
+
+    private int drainBatch() {
+        int drained = ringBuffer.drain(this::append, batchSize);
+        if (drained > 0) {
+            writer.flush();
+        }
+        return drained;
+    }
+
+    private void append(DecisionRecord record) {
+        try {
+            writer.append(record);
+            written.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            lost.incrementAndGet();
+            logger.error("Failed to append decision record", e);
+        }
+    }
+}
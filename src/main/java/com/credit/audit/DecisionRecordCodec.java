@@ -0,0 +1,112 @@
+package com.credit.audit;
+
+import com.credit.model.CreditCategory;
+import com.credit.model.DecisionRecord;
+import com.credit.model.OfferOutcome;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary layout for a single decision record.
+ * Each record is framed as [int length][payload]; a zero length marks the end of a segment.
+ * List counts and string lengths are ints, with -1 marking a null string.
+ */
+public final class DecisionRecordCodec {
+    private static final CreditCategory[] CATEGORIES = CreditCategory.values();
+    private static final DecisionRecord.Source[] SOURCES = DecisionRecord.Source.values();
+    private static final byte NO_CATEGORY = -1;
+    private static final int NULL_STRING = -1;
+
+    private DecisionRecordCodec() {
+    }
+
+    public static void encode(DecisionRecord record, ByteBuffer buffer) {
+        buffer.putLong(record.getTimestamp());
+        buffer.put((byte) record.getSource().ordinal());
+        putString(buffer, record.getModelVersion());
+        buffer.putDouble(record.getAnnualIncome());
+        buffer.putDouble(record.getMonthlyDebtPayments());
+        buffer.putInt(record.getOldestAccountAge());
+        buffer.putInt(record.getFicoScore());
+        buffer.putInt(record.getMissedPayments());
+        buffer.put(categoryCode(record.getPredictedCategory()));
+        putStrings(buffer, record.getPurchaseCategory());
+        putStrings(buffer, record.getRequestedOffers());
+        buffer.putInt(record.getOffers().size());
+        for (OfferOutcome offer : record.getOffers()) {
+            putString(buffer, offer.getOfferId());
+            buffer.put(categoryCode(offer.getPredictedCategory()));
+            putString(buffer, offer.getPrediction());
+        }
+    }
+
+    public static DecisionRecord decode(ByteBuffer buffer) {
+        DecisionRecord record = new DecisionRecord();
+        record.setTimestamp(buffer.getLong());
+        record.setSource(SOURCES[buffer.get()]);
+        record.setModelVersion(getString(buffer));
+        record.setAnnualIncome(buffer.getDouble());
+        record.setMonthlyDebtPayments(buffer.getDouble());
+        record.setOldestAccountAge(buffer.getInt());
+        record.setFicoScore(buffer.getInt());
+        record.setMissedPayments(buffer.getInt());
+        record.setPredictedCategory(category(buffer.get()));
+        record.setPurchaseCategory(getStrings(buffer));
+        record.setRequestedOffers(getStrings(buffer));
+        int offerCount = buffer.getInt();
+        List<OfferOutcome> offers = new ArrayList<>(offerCount);
+        for (int i = 0; i < offerCount; i++) {
+            String offerId = getString(buffer);
+            CreditCategory predictedCategory = category(buffer.get());
+            offers.add(new OfferOutcome(offerId, predictedCategory, getString(buffer)));
+        }
+        record.setOffers(offers);
+        return record;
+    }
+
+    private static byte categoryCode(CreditCategory category) {
+        return category == null ? NO_CATEGORY : (byte) category.ordinal();
+    }
+
+    private static CreditCategory category(byte code) {
+        return code == NO_CATEGORY ? null : CATEGORIES[code];
+    }
+
+    private static void putStrings(ByteBuffer buffer, List<String> values) {
+        buffer.putInt(values.size());
+        for (String value : values) {
+            putString(buffer, value);
+        }
+    }
+
+    private static List<String> getStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(getString(buffer));
+        }
+        return values;
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,108 @@
+package com.credit.audit;
+
+import com.credit.model.DecisionRecord;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Replays decision records from segment files written by {@link DecisionSegmentWriter}.
+ * Reading a segment stops at its first zero-length frame, or at the first frame that
+ * fails its checksum or cannot be decoded; the latter is reported as corruption.
+ */
+public final class DecisionSegmentReader {
+
+    public static final class Result {
+        private final long records;
+        private final String corruption;
+
+        private Result(long records, String corruption) {
+            this.records = records;
+            this.corruption = corruption;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+
+        // Description of the first bad frame, or null when the segment read cleanly
+        public String getCorruption() {
+            return corruption;
+        }
+
+        public boolean isCorrupt() {
+            return corruption != null;
+        }
+    }
+
+    private DecisionSegmentReader() {
+    }
+
+    public static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(DecisionSegmentWriter.SEGMENT_PREFIX)
+                        && name.endsWith(DecisionSegmentWriter.SEGMENT_SUFFIX);
+                })
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    public static Result read(Path segmentFile, Consumer<DecisionRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < DecisionSegmentWriter.HEADER_SIZE
+                    || buffer.getInt() != DecisionSegmentWriter.MAGIC) {
+                throw new IOException("Not a decision log segment: " + segmentFile);
+            }
+            int version = buffer.getInt();
+            if (version != DecisionSegmentWriter.FORMAT_VERSION) {
+                throw new IOException("Unsupported decision log format version " + version + " in " + segmentFile);
+            }
+            long count = 0;
+            while (buffer.remaining() >= DecisionSegmentWriter.FRAME_HEADER_SIZE) {
+                int frameStart = buffer.position();
+                int length = buffer.getInt();
+                if (length == 0) {
+                    break; // end of written data
+                }
+                int checksum = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    return corrupt(count, segmentFile, frameStart, "invalid frame length " + length);
+                }
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                CRC32 crc = new CRC32();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    return corrupt(count, segmentFile, frameStart, "checksum mismatch");
+                }
+                DecisionRecord record;
+                try {
+                    record = DecisionRecordCodec.decode(payload);
+                } catch (RuntimeException e) {
+                    return corrupt(count, segmentFile, frameStart, "undecodable frame: " + e);
+                }
+                consumer.accept(record);
+                buffer.position(buffer.position() + length);
+                count++;
+            }
+            return new Result(count, null);
+        }
+    }
+
+    private static Result corrupt(long count, Path segmentFile, int offset, String reason) {
+        return new Result(count, segmentFile + " at offset " + offset + ": " + reason);
+    }
+}
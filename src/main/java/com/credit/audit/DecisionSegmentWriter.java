@@ -0,0 +1,134 @@
+package com.credit.audit;
+
+import com.credit.model.DecisionRecord;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Appends encoded decision records to fixed-size memory-mapped segment files,
+ * rolling over to a new segment when the current one is full.
+ * Each frame is [int length][int crc32][payload]. The payload and checksum are written
+ * before the length, so a crash mid-write leaves a zero length that ends the segment.
+ */
+public class DecisionSegmentWriter implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(DecisionSegmentWriter.class);
+    public static final int MAGIC = 0x43434C47; // "CCLG"
+    public static final int FORMAT_VERSION = 2;
+    public static final int HEADER_SIZE = 8;
+    public static final int FRAME_HEADER_SIZE = 8;
+    public static final String SEGMENT_PREFIX = "decisions-";
+    public static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+
+    public DecisionSegmentWriter(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < HEADER_SIZE + 1024) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        this.segmentIndex = lastSegmentIndex(directory) + 1;
+        openSegment();
+    }
+
+    public void append(DecisionRecord record) throws IOException {
+        ByteBuffer payload = encode(record);
+        int length = payload.remaining();
+        int frameSize = FRAME_HEADER_SIZE + length;
+        if (frameSize + 4 > segmentSize - HEADER_SIZE) {
+            throw new IOException("Decision record of " + frameSize + " bytes is larger than the segment size");
+        }
+        // Keep room for the trailing zero-length terminator; a previous failed roll leaves no segment open
+        if (segment == null || segment.remaining() < frameSize + 4) {
+            roll();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        int frameStart = segment.position();
+        segment.position(frameStart + FRAME_HEADER_SIZE);
+        segment.put(payload);
+        segment.putInt(frameStart + 4, (int) crc.getValue());
+        // Publishing the length last is what makes the frame visible to readers
+        segment.putInt(frameStart, length);
+    }
+
+    public void flush() {
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (segment != null) {
+            segment.force();
+            segment = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private ByteBuffer encode(DecisionRecord record) {
+        while (true) {
+            scratch.clear();
+            try {
+                DecisionRecordCodec.encode(record, scratch);
+                scratch.flip();
+                return scratch;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        close();
+        segmentIndex++;
+        openSegment();
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(segmentFileName(segmentIndex));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.putInt(MAGIC);
+        segment.putInt(FORMAT_VERSION);
+        logger.info("Opened decision log segment {}", path);
+    }
+
+    public static String segmentFileName(long index) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    private static long lastSegmentIndex(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                .filter(name -> name.matches(SEGMENT_PREFIX + "\\d{20}" + SEGMENT_SUFFIX))
+                .mapToLong(name -> Long.parseLong(
+                    name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                .max()
+                .orElse(-1L);
+        }
+    }
+}
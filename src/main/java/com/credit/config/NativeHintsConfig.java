@@ -0,0 +1,52 @@
+package com.credit.config;
+
+import com.credit.model.CreditCard;
+import com.credit.model.CreditProfile;
+import com.credit.model.DecisionRecord;
+import com.credit.model.OfferOutcome;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection and resource hints for the native image build.
+ * Jackson binds the Lombok models reflectively and the services read their data from the classpath.
+ * Protobuf looks up generated message accessors reflectively for field access tables.
+ */
+@Configuration
+@RegisterReflectionForBinding({CreditProfile.class, CreditCard.class, DecisionRecord.class, OfferOutcome.class})
+@ImportRuntimeHints({NativeHintsConfig.ResourceHints.class, NativeHintsConfig.ProtobufHints.class})
+public class NativeHintsConfig {
+
+    static class ResourceHints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources()
+                .registerPattern("training-data.json")
+                .registerPattern("credit-cards.json");
+        }
+    }
+
+    static class ProtobufHints implements RuntimeHintsRegistrar {
+        private static final String[] MESSAGES = {
+            "com.credit.grpc.proto.CreditProfile",
+            "com.credit.grpc.proto.PredictResponse",
+            "com.credit.grpc.proto.OfferResult",
+            "com.credit.grpc.proto.RecommendationsResponse"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String message : MESSAGES) {
+                hints.reflection().registerType(TypeReference.of(message), MemberCategory.INVOKE_PUBLIC_METHODS);
+                hints.reflection().registerType(TypeReference.of(message + "$Builder"), MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.reflection().registerType(TypeReference.of("com.credit.grpc.proto.CreditCategory"),
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.credit.controller;
 import com.credit.model.CreditCard;
 import com.credit.model.CreditCategory;
 import com.credit.model.CreditProfile;
+import com.credit.model.DecisionRecord;
+import com.credit.model.OfferOutcome;
 import com.credit.service.CreditCardRecommendationService;
 import com.credit.service.CreditPredictionService;
-import com.credit.service.OfferRecommendationService;
+import com.credit.service.DecisionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,7 +16,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -27,15 +28,15 @@ public class CreditCardController {
 
     private final CreditPredictionService predictionService;
     private final CreditCardRecommendationService recommendationService;
-    private final OfferRecommendationService offerRecommendationService;
+    private final DecisionService decisionService;
 
     @Autowired
     public CreditCardController(CreditPredictionService predictionService,
                               CreditCardRecommendationService recommendationService,
-                              OfferRecommendationService offerRecommendationService) {
+                              DecisionService decisionService) {
         this.predictionService = predictionService;
         this.recommendationService = recommendationService;
-        this.offerRecommendationService = offerRecommendationService;
+        this.decisionService = decisionService;
     }
 
     @PostMapping("/train")
@@ -58,7 +59,7 @@ public class CreditCardController {
     )
     @ApiResponse(responseCode = "200", description = "Successfully predicted credit category")
     public ResponseEntity<CreditCategory> predictCreditCategory(@RequestBody CreditProfile profile) {
-        CreditCategory predictedCategory = predictionService.predictCategory(profile);
+        CreditCategory predictedCategory = decisionService.predict(profile, DecisionRecord.Source.PREDICT);
         return ResponseEntity.ok(predictedCategory);
     }
 
@@ -69,7 +70,7 @@ public class CreditCardController {
     )
     @ApiResponse(responseCode = "200", description = "Successfully retrieved personalized credit card recommendations")
     public ResponseEntity<List<CreditCard>> recommendCreditCards(@RequestBody CreditProfile profile) {
-        CreditCategory predictedCategory = predictionService.predictCategory(profile);
+        CreditCategory predictedCategory = decisionService.predict(profile, DecisionRecord.Source.RECOMMEND);
         List<CreditCard> recommendations = recommendationService.getRecommendedCards(profile, predictedCategory);
         return ResponseEntity.ok(recommendations);
     }
@@ -97,47 +98,16 @@ public class CreditCardController {
 
     @PostMapping("/getRecommendations")
     public ResponseEntity<Map<String, Object>> getRecommendations(@RequestBody CreditProfile profile) {
-        //if purchaseCategory is null, set it to allCards
-        if (profile.getPurchaseCategory() == null) {
-            profile.setPurchaseCategory(Arrays.asList("allCards"));
-        }
-
-        // Initialize offersList if null
-        if (profile.getOffersList() == null) {
-            profile.setOffersList(Arrays.asList("OFFER1", "OFFER2", "OFFER3", "OFFER4", "OFFER5"));
-        }
-
-        //pull the offersList from the profile and get only the offers that are in the purchaseCategory from offerRecommendationService
-        List<String> offers = offerRecommendationService.getPurchaseCategoryOffers(profile.getOffersList(), profile.getPurchaseCategory());
-        //set this to profile offerslist
-        profile.setOffersList(offers);
-
-        //iterate through offers and generate recommendations for each offer
         Map<String, Object> recommendations = new HashMap<>();
         List<Map<String, Object>> cards = new ArrayList<>();
-        
-        for (String offer : offers) {
-            Integer ficoScore = profile.getFicoScore();
-            profile.setFicoScore(offerRecommendationService.adjustFicoScore(offer, profile));
-            CreditCategory predictedCategory = predictionService.predictCategory(profile);
-            profile.setFicoScore(ficoScore);
-            
+        for (OfferOutcome outcome : decisionService.getRecommendations(profile)) {
             Map<String, Object> card = new HashMap<>();
-            card.put("offerId", offer);
-            String prediction = "";
-            //adjust the predictedCategory if it is Excellent or Good change it to high and adjust accordingly to medium or poor
-            if (predictedCategory == CreditCategory.EXCELLENT || predictedCategory == CreditCategory.GOOD) {
-                prediction = "High";
-            } else if (predictedCategory == CreditCategory.GOOD) {
-                prediction = "Medium";
-            } else {
-                prediction = "Low";
-            }
-            card.put("prediction", prediction);
+            card.put("offerId", outcome.getOfferId());
+            card.put("prediction", outcome.getPrediction());
             cards.add(card);
         }
         
         recommendations.put("cards", cards);
         return ResponseEntity.ok(recommendations);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
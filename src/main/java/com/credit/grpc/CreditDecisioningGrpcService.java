@@ -0,0 +1,148 @@
+package com.credit.grpc;
+
+import com.credit.grpc.proto.CreditDecisioningGrpc;
+import com.credit.grpc.proto.CreditProfile;
+import com.credit.grpc.proto.PredictResponse;
+import com.credit.grpc.proto.RecommendationsResponse;
+import com.credit.model.DecisionRecord;
+import com.credit.service.DecisionService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary counterpart of /predict and /getRecommendations, backed by the same {@link DecisionService}.
+ */
+@Component
+public class CreditDecisioningGrpcService extends CreditDecisioningGrpc.CreditDecisioningImplBase {
+    private static final Logger logger = LoggerFactory.getLogger(CreditDecisioningGrpcService.class);
+
+    private final DecisionService decisionService;
+
+    public CreditDecisioningGrpcService(DecisionService decisionService) {
+        this.decisionService = decisionService;
+    }
+
+    @Override
+    public void predict(CreditProfile request, StreamObserver<PredictResponse> responseObserver) {
+        respond(this::predict, request, responseObserver);
+    }
+
+    @Override
+    public void getRecommendations(CreditProfile request, StreamObserver<RecommendationsResponse> responseObserver) {
+        respond(this::getRecommendations, request, responseObserver);
+    }
+
+    @Override
+    public StreamObserver<CreditProfile> predictStream(StreamObserver<PredictResponse> responseObserver) {
+        return new BatchObserver<>(this::predict, responseObserver);
+    }
+
+    @Override
+    public StreamObserver<CreditProfile> getRecommendationsStream(StreamObserver<RecommendationsResponse> responseObserver) {
+        return new BatchObserver<>(this::getRecommendations, responseObserver);
+    }
+
+    private PredictResponse predict(CreditProfile request) {
+        return ProtoMapper.toPredictResponse(
+            decisionService.predict(ProtoMapper.toModel(request), DecisionRecord.Source.PREDICT));
+    }
+
+    private RecommendationsResponse getRecommendations(CreditProfile request) {
+        return ProtoMapper.toRecommendationsResponse(
+            decisionService.getRecommendations(ProtoMapper.toModel(request)));
+    }
+
+    private static <R> void respond(Function<CreditProfile, R> handler, CreditProfile request,
+                                    StreamObserver<R> responseObserver) {
+        R response;
+        try {
+            response = handler.apply(request);
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    static StatusRuntimeException toStatusException(RuntimeException e) {
+        if (e instanceof StatusRuntimeException) {
+            return (StatusRuntimeException) e;
+        }
+        Status status;
+        if (e instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else if (e instanceof IllegalStateException) {
+            // e.g. the decision log is not accepting records
+            status = Status.UNAVAILABLE;
+        } else {
+            status = Status.INTERNAL;
+            logger.error("Decisioning RPC failed", e);
+        }
+        return status.withDescription(e.getMessage()).withCause(e).asRuntimeException();
+    }
+
+    /**
+     * Answers each streamed request in order, asking the client for the next request
+     * only while the response stream is ready so a slow reader applies backpressure.
+     */
+    private static class BatchObserver<R> implements StreamObserver<CreditProfile> {
+        private final Function<CreditProfile, R> handler;
+        private final ServerCallStreamObserver<R> responseObserver;
+        private boolean awaitingReady;
+        private boolean failed;
+
+        BatchObserver(Function<CreditProfile, R> handler, StreamObserver<R> responseObserver) {
+            this.handler = handler;
+            this.responseObserver = (ServerCallStreamObserver<R>) responseObserver;
+            this.responseObserver.disableAutoRequest();
+            this.awaitingReady = true;
+            this.responseObserver.setOnReadyHandler(this::onReady);
+        }
+
+        // gRPC serializes the onReady and request callbacks for a call, so no extra locking is needed
+        private void onReady() {
+            if (awaitingReady && !failed && responseObserver.isReady()) {
+                awaitingReady = false;
+                responseObserver.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(CreditProfile request) {
+            if (failed) {
+                return;
+            }
+            try {
+                responseObserver.onNext(handler.apply(request));
+            } catch (RuntimeException e) {
+                failed = true;
+                responseObserver.onError(toStatusException(e));
+                return;
+            }
+            if (responseObserver.isReady()) {
+                responseObserver.request(1);
+            } else {
+                awaitingReady = true;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            logger.debug("Client cancelled batch stream", t);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (!failed) {
+                responseObserver.onCompleted();
+            }
+        }
+    }
+}
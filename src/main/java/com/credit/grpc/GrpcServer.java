@@ -0,0 +1,102 @@
+package com.credit.grpc;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Plaintext HTTP/2 gRPC server for internal callers, bound to localhost by default.
+ * Runs alongside the JSON API and shares its lifecycle.
+ * Calls run on a fixed pool so a burst of RPCs cannot grow the thread count without bound.
+ */
+@Component
+public class GrpcServer implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServer.class);
+
+    private final boolean enabled;
+    private final String address;
+    private final int port;
+    private final int threads;
+    private final CreditDecisioningGrpcService decisioningService;
+    private ExecutorService executor;
+    private Server server;
+
+    public GrpcServer(@Value("${credit.grpc.enabled:true}") boolean enabled,
+                      @Value("${credit.grpc.address:127.0.0.1}") String address,
+                      @Value("${credit.grpc.port:9090}") int port,
+                      @Value("${credit.grpc.threads:16}") int threads,
+                      CreditDecisioningGrpcService decisioningService) {
+        this.enabled = enabled;
+        this.address = address;
+        this.port = port;
+        this.threads = threads;
+        this.decisioningService = decisioningService;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            logger.info("gRPC endpoint is disabled");
+            return;
+        }
+        executor = Executors.newFixedThreadPool(threads, workerThreadFactory());
+        try {
+            server = NettyServerBuilder.forAddress(new InetSocketAddress(address, port))
+                .executor(executor)
+                .addService(decisioningService)
+                .build()
+                .start();
+        } catch (IOException e) {
+            executor.shutdownNow();
+            executor = null;
+            throw new UncheckedIOException("Failed to start gRPC server on " + address + ":" + port, e);
+        }
+        logger.info("gRPC endpoint listening on {}:{} with {} worker threads", address, server.getPort(), threads);
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "grpc-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(10, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // The server does not own a caller-supplied executor, so release it once calls have finished
+        executor.shutdownNow();
+        executor = null;
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
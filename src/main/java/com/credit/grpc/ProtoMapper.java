@@ -0,0 +1,67 @@
+package com.credit.grpc;
+
+import com.credit.grpc.proto.CreditCategory;
+import com.credit.grpc.proto.CreditProfile;
+import com.credit.grpc.proto.OfferResult;
+import com.credit.grpc.proto.PredictResponse;
+import com.credit.grpc.proto.RecommendationsResponse;
+import com.credit.model.OfferOutcome;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts between the protobuf messages and the com.credit.model types used by the service layer.
+ */
+final class ProtoMapper {
+
+    private ProtoMapper() {
+    }
+
+    static com.credit.model.CreditProfile toModel(CreditProfile proto) {
+        com.credit.model.CreditProfile profile = new com.credit.model.CreditProfile();
+        profile.setAnnualIncome(proto.getAnnualIncome());
+        profile.setMonthlyDebtPayments(proto.getMonthlyDebtPayments());
+        profile.setOldestAccountAge(proto.getOldestAccountAge());
+        profile.setFicoScore(proto.getFicoScore());
+        profile.setMissedPayments(proto.getMissedPayments());
+        profile.setCategory(toModel(proto.getCategory()));
+        // Repeated fields cannot be null, so empty means "not provided" like a missing JSON field
+        if (proto.getPurchaseCategoryCount() > 0) {
+            profile.setPurchaseCategory(new ArrayList<>(proto.getPurchaseCategoryList()));
+        }
+        if (proto.getOffersListCount() > 0) {
+            profile.setOffersList(new ArrayList<>(proto.getOffersListList()));
+        }
+        return profile;
+    }
+
+    static PredictResponse toPredictResponse(com.credit.model.CreditCategory category) {
+        return PredictResponse.newBuilder()
+            .setCategory(toProto(category))
+            .build();
+    }
+
+    static RecommendationsResponse toRecommendationsResponse(List<OfferOutcome> outcomes) {
+        RecommendationsResponse.Builder response = RecommendationsResponse.newBuilder();
+        for (OfferOutcome outcome : outcomes) {
+            response.addCards(OfferResult.newBuilder()
+                .setOfferId(outcome.getOfferId())
+                .setPrediction(outcome.getPrediction())
+                .setPredictedCategory(toProto(outcome.getPredictedCategory())));
+        }
+        return response.build();
+    }
+
+    private static com.credit.model.CreditCategory toModel(CreditCategory category) {
+        if (category == CreditCategory.CREDIT_CATEGORY_UNSPECIFIED || category == CreditCategory.UNRECOGNIZED) {
+            return null;
+        }
+        return com.credit.model.CreditCategory.valueOf(category.name());
+    }
+
+    private static CreditCategory toProto(com.credit.model.CreditCategory category) {
+        return category == null
+            ? CreditCategory.CREDIT_CATEGORY_UNSPECIFIED
+            : CreditCategory.valueOf(category.name());
+    }
+}
@@ -0,0 +1,23 @@
+package com.credit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.credit.OfferEvaluation")
+@Label("Offer Evaluation Loop")
+@Description("Time spent evaluating every offer in the getRecommendations endpoint")
+@Category({"Credit", "Offers"})
+@Enabled(false)
+@StackTrace(false)
+public class OfferEvaluationEvent extends Event {
+    @Label("Offer Count")
+    public int offerCount;
+
+    @Label("Model Version")
+    public String modelVersion;
+}
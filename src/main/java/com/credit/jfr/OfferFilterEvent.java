@@ -0,0 +1,23 @@
+package com.credit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.credit.OfferFilter")
+@Label("Purchase Category Offer Filter")
+@Description("Time spent in OfferRecommendationService.getPurchaseCategoryOffers")
+@Category({"Credit", "Offers"})
+@Enabled(false)
+@StackTrace(false)
+public class OfferFilterEvent extends Event {
+    @Label("Requested Offer Count")
+    public int requestedOfferCount;
+
+    @Label("Offer Count")
+    public int offerCount;
+}
@@ -0,0 +1,23 @@
+package com.credit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.credit.Prediction")
+@Label("Category Prediction")
+@Description("Time spent in CreditPredictionService.predictCategory")
+@Category({"Credit", "Prediction"})
+@Enabled(false)
+@StackTrace(false)
+public class PredictionEvent extends Event {
+    @Label("Predicted Category")
+    public String predictedCategory;
+
+    @Label("Model Version")
+    public String modelVersion;
+}
@@ -0,0 +1,20 @@
+package com.credit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.credit.TrainingDataLoad")
+@Label("Training Data Load")
+@Description("Time spent in CreditPredictionService.loadTrainingData")
+@Category({"Credit", "Training"})
+@Enabled(false)
+@StackTrace(false)
+public class TrainingDataLoadEvent extends Event {
+    @Label("Row Count")
+    public int rowCount;
+}
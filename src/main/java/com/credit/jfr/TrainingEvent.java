@@ -0,0 +1,23 @@
+package com.credit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.credit.Training")
+@Label("Model Training")
+@Description("Time spent in CreditPredictionService.trainModels")
+@Category({"Credit", "Training"})
+@Enabled(false)
+@StackTrace(false)
+public class TrainingEvent extends Event {
+    @Label("Row Count")
+    public int rowCount;
+
+    @Label("Model Version")
+    public String modelVersion;
+}
@@ -0,0 +1,13 @@
+package com.credit.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategoryPrediction {
+    private CreditCategory category;
+    private String modelVersion;
+}
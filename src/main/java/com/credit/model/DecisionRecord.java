@@ -0,0 +1,50 @@
+package com.credit.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DecisionRecord {
+    public enum Source {
+        PREDICT,
+        RECOMMEND,
+        GET_RECOMMENDATIONS
+    }
+
+    private long timestamp;
+    private Source source;
+    private String modelVersion;
+    private double annualIncome;
+    private double monthlyDebtPayments;
+    private int oldestAccountAge;
+    private int ficoScore;
+    private int missedPayments;
+    private List<String> purchaseCategory;
+    private List<String> requestedOffers;
+    private CreditCategory predictedCategory;
+    private List<OfferOutcome> offers;
+
+    // Copies the profile fields so later mutation of the request object does not leak into the log
+    // requestedOffers is the offer list before purchase-category filtering, so exclusions can be explained
+    public static DecisionRecord of(Source source, String modelVersion, CreditProfile profile, List<String> requestedOffers,
+                                    CreditCategory predictedCategory, List<OfferOutcome> offers) {
+        return new DecisionRecord(
+            System.currentTimeMillis(),
+            source,
+            modelVersion,
+            profile.getAnnualIncome(),
+            profile.getMonthlyDebtPayments(),
+            profile.getOldestAccountAge(),
+            profile.getFicoScore(),
+            profile.getMissedPayments(),
+            profile.getPurchaseCategory() == null ? List.of() : new ArrayList<>(profile.getPurchaseCategory()),
+            requestedOffers == null ? List.of() : new ArrayList<>(requestedOffers),
+            predictedCategory,
+            offers == null ? List.of() : new ArrayList<>(offers));
+    }
+}
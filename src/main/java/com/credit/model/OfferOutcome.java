@@ -0,0 +1,14 @@
+package com.credit.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OfferOutcome {
+    private String offerId;
+    private CreditCategory predictedCategory;
+    private String prediction;
+}
@@ -1,5 +1,9 @@
 package com.credit.service;
 
+import com.credit.jfr.PredictionEvent;
+import com.credit.jfr.TrainingDataLoadEvent;
+import com.credit.jfr.TrainingEvent;
+import com.credit.model.CategoryPrediction;
 import com.credit.model.CreditCategory;
 import com.credit.model.CreditProfile;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -10,13 +14,17 @@ import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 @Service
 public class CreditPredictionService {
     private static final Logger logger = LoggerFactory.getLogger(CreditPredictionService.class);
     private List<CreditProfile> trainingData;
-    private Map<CreditCategory, SimpleRegression> regressionModels;
+    // Swapped as a whole on retrain so a prediction never mixes models or reports the wrong version
+    private volatile TrainedModels models;
     private static final double[] FEATURE_WEIGHTS = {
         0.25,  // normalizedIncome
         0.20,  // debtToIncomeRatio
@@ -28,7 +36,6 @@ public class CreditPredictionService {
     public CreditPredictionService() {
         logger.info("Initializing CreditPredictionService...");
         this.trainingData = new ArrayList<>();
-        this.regressionModels = new EnumMap<>(CreditCategory.class);
         
         logger.info("Loading training data from JSON file...");
         loadTrainingData();
@@ -40,6 +47,8 @@ public class CreditPredictionService {
     }
 
     private void loadTrainingData() {
+        TrainingDataLoadEvent event = new TrainingDataLoadEvent();
+        event.begin();
         try {
             ObjectMapper mapper = new ObjectMapper();
             ClassPathResource resource = new ClassPathResource("training-data.json");
@@ -54,6 +63,10 @@ public class CreditPredictionService {
             
             logger.info("Training data distribution: {}", categoryCounts);
             
+            if (event.shouldCommit()) {
+                event.rowCount = trainingData.size();
+                event.commit();
+            }
         } catch (IOException e) {
             logger.error("Failed to load training data from JSON file", e);
             throw new RuntimeException("Failed to load training data from JSON file", e);
@@ -61,6 +74,9 @@ public class CreditPredictionService {
     }
 
     private void trainModels() {
+        TrainingEvent event = new TrainingEvent();
+        event.begin();
+        Map<CreditCategory, SimpleRegression> regressionModels = new EnumMap<>(CreditCategory.class);
         for (CreditCategory category : CreditCategory.values()) {
             logger.debug("Training model for category: {}", category);
             SimpleRegression regression = new SimpleRegression();
@@ -79,6 +95,42 @@ public class CreditPredictionService {
             regressionModels.put(category, regression);
             logger.debug("Completed training for category: {}", category);
         }
+        TrainedModels trained = new TrainedModels(regressionModels, modelVersion(trainingData));
+        this.models = trained;
+        logger.info("Published model version {}", trained.version);
+        if (event.shouldCommit()) {
+            event.rowCount = trainingData.size();
+            event.modelVersion = trained.version;
+            event.commit();
+        }
+    }
+
+    // Identifies a model by its training set and feature weights, so the same data yields the
+    // same version on every instance and across restarts
+    private static String modelVersion(List<CreditProfile> profiles) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        ByteBuffer row = ByteBuffer.allocate(8 * FEATURE_WEIGHTS.length);
+        for (double weight : FEATURE_WEIGHTS) {
+            row.putDouble(weight);
+        }
+        digest.update(row.array());
+        row = ByteBuffer.allocate(8 + 8 + 4 + 4 + 4 + 4);
+        for (CreditProfile profile : profiles) {
+            row.clear();
+            row.putDouble(profile.getAnnualIncome());
+            row.putDouble(profile.getMonthlyDebtPayments());
+            row.putInt(profile.getOldestAccountAge());
+            row.putInt(profile.getFicoScore());
+            row.putInt(profile.getMissedPayments());
+            row.putInt(profile.getCategory() == null ? -1 : profile.getCategory().ordinal());
+            digest.update(row.array());
+        }
+        return "sha256:" + HexFormat.of().formatHex(digest.digest(), 0, 8);
     }
 
     private double[] extractFeatures(CreditProfile profile) {
@@ -103,7 +155,29 @@ public class CreditPredictionService {
         };
     }
 
+    public String getModelVersion() {
+        return models.version;
+    }
+
     public CreditCategory predictCategory(CreditProfile profile) {
+        return predict(profile).getCategory();
+    }
+
+    // Predicts the category together with the version of the model that produced it
+    public CategoryPrediction predict(CreditProfile profile) {
+        PredictionEvent event = new PredictionEvent();
+        event.begin();
+        TrainedModels current = models;
+        CreditCategory predictedCategory = computeCategory(profile, current.regressionModels);
+        if (event.shouldCommit()) {
+            event.predictedCategory = predictedCategory.name();
+            event.modelVersion = current.version;
+            event.commit();
+        }
+        return new CategoryPrediction(predictedCategory, current.version);
+    }
+
+    private CreditCategory computeCategory(CreditProfile profile, Map<CreditCategory, SimpleRegression> regressionModels) {
         Map<CreditCategory, Double> predictions = new EnumMap<>(CreditCategory.class);
         double[] features = extractFeatures(profile);
         
@@ -155,6 +229,7 @@ public class CreditPredictionService {
         // Return training statistics
         Map<String, Object> stats = new HashMap<>();
         stats.put("trainingDataSize", trainingData.size());
+        stats.put("modelVersion", getModelVersion());
         stats.put("categories", Arrays.stream(CreditCategory.values())
                 .collect(HashMap::new,
                         (map, category) -> map.put(category.name(),
@@ -165,4 +240,14 @@ public class CreditPredictionService {
         
         return stats;
     }
-} 
\ No newline at end of file
+
+    private static final class TrainedModels {
+        private final Map<CreditCategory, SimpleRegression> regressionModels;
+        private final String version;
+
+        private TrainedModels(Map<CreditCategory, SimpleRegression> regressionModels, String version) {
+            this.regressionModels = regressionModels;
+            this.version = version;
+        }
+    }
+}
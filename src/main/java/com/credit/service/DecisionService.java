@@ -0,0 +1,89 @@
+package com.credit.service;
+
+import com.credit.audit.DecisionLog;
+import com.credit.jfr.OfferEvaluationEvent;
+import com.credit.model.CategoryPrediction;
+import com.credit.model.CreditCategory;
+import com.credit.model.CreditProfile;
+import com.credit.model.DecisionRecord;
+import com.credit.model.OfferOutcome;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Audited category and offer decisions, shared by the JSON and gRPC endpoints.
+ */
+@Service
+public class DecisionService {
+    private final CreditPredictionService predictionService;
+    private final OfferRecommendationService offerRecommendationService;
+    private final DecisionLog decisionLog;
+
+    public DecisionService(CreditPredictionService predictionService,
+                           OfferRecommendationService offerRecommendationService,
+                           DecisionLog decisionLog) {
+        this.predictionService = predictionService;
+        this.offerRecommendationService = offerRecommendationService;
+        this.decisionLog = decisionLog;
+    }
+
+    public CreditCategory predict(CreditProfile profile, DecisionRecord.Source source) {
+        CategoryPrediction prediction = predictionService.predict(profile);
+        decisionLog.record(DecisionRecord.of(source,
+            prediction.getModelVersion(), profile, profile.getOffersList(), prediction.getCategory(), null));
+        return prediction.getCategory();
+    }
+
+    public List<OfferOutcome> getRecommendations(CreditProfile profile) {
+        //if purchaseCategory is null, set it to allCards
+        if (profile.getPurchaseCategory() == null) {
+            profile.setPurchaseCategory(Arrays.asList("allCards"));
+        }
+
+        // Initialize offersList if null
+        if (profile.getOffersList() == null) {
+            profile.setOffersList(Arrays.asList("OFFER1", "OFFER2", "OFFER3", "OFFER4", "OFFER5"));
+        }
+
+        List<String> requestedOffers = profile.getOffersList();
+
+        //pull the offersList from the profile and get only the offers that are in the purchaseCategory from offerRecommendationService
+        List<String> offers = offerRecommendationService.getPurchaseCategoryOffers(profile.getOffersList(), profile.getPurchaseCategory());
+        //set this to profile offerslist
+        profile.setOffersList(offers);
+
+        //iterate through offers and generate recommendations for each offer
+        List<OfferOutcome> outcomes = new ArrayList<>(offers.size());
+        OfferEvaluationEvent evaluationEvent = new OfferEvaluationEvent();
+        evaluationEvent.begin();
+        
+        // predictCategory is decided by the missed-payment thresholds alone, so the offer's
+        // FICO adjustment (adjustFicoScore) cannot change it and one prediction covers every offer
+        CategoryPrediction categoryPrediction = predictionService.predict(profile);
+        CreditCategory predictedCategory = categoryPrediction.getCategory();
+        String modelVersion = categoryPrediction.getModelVersion();
+        String prediction = "";
+        //adjust the predictedCategory if it is Excellent or Good change it to high and adjust accordingly to medium or poor
+        if (predictedCategory == CreditCategory.EXCELLENT || predictedCategory == CreditCategory.GOOD) {
+            prediction = "High";
+        } else if (predictedCategory == CreditCategory.GOOD) {
+            prediction = "Medium";
+        } else {
+            prediction = "Low";
+        }
+        for (String offer : offers) {
+            outcomes.add(new OfferOutcome(offer, predictedCategory, prediction));
+        }
+        if (evaluationEvent.shouldCommit()) {
+            evaluationEvent.offerCount = offers.size();
+            evaluationEvent.modelVersion = modelVersion;
+            evaluationEvent.commit();
+        }
+        decisionLog.record(DecisionRecord.of(DecisionRecord.Source.GET_RECOMMENDATIONS,
+            modelVersion, profile, requestedOffers, null, outcomes));
+        
+        return outcomes;
+    }
+}
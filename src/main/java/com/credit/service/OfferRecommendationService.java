@@ -1,5 +1,6 @@
 package com.credit.service;
 
+import com.credit.jfr.OfferFilterEvent;
 import com.credit.model.CreditProfile;
 import org.springframework.stereotype.Service;
 import java.util.ArrayList;
@@ -23,7 +24,9 @@ public class OfferRecommendationService {
     };
 
     public List<String> getPurchaseCategoryOffers(List<String> offersList, List<String> purchaseCategories) {
-        return Arrays.stream(cardData)
+        OfferFilterEvent event = new OfferFilterEvent();
+        event.begin();
+        List<String> offers = Arrays.stream(cardData)
             .filter(card -> {
                 String[] cardCategories = card[3].split(", ");
                 return purchaseCategories.stream()
@@ -32,6 +35,12 @@ public class OfferRecommendationService {
             })
             .map(card -> card[1])
             .collect(Collectors.toList());
+        if (event.shouldCommit()) {
+            event.requestedOfferCount = offersList.size();
+            event.offerCount = offers.size();
+            event.commit();
+        }
+        return offers;
     }
 
 
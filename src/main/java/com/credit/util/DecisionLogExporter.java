@@ -0,0 +1,69 @@
+package com.credit.util;
+
+import com.credit.audit.DecisionSegmentReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Replays decision log segments into NDJSON.
+ * Usage: DecisionLogExporter &lt;segment directory or file&gt; [output.ndjson]
+ */
+public class DecisionLogExporter {
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: DecisionLogExporter <segment directory or file> [output.ndjson]");
+            System.exit(1);
+        }
+        try {
+            Path source = Path.of(args[0]);
+            List<Path> segments = Files.isDirectory(source)
+                ? DecisionSegmentReader.listSegments(source)
+                : List.of(source);
+
+            ObjectWriter jsonWriter = new ObjectMapper().writer();
+            Writer output = args.length > 1
+                ? Files.newBufferedWriter(Path.of(args[1]), StandardCharsets.UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+
+            long total = 0;
+            int corruptSegments = 0;
+            try (output) {
+                for (Path segment : segments) {
+                    DecisionSegmentReader.Result result = DecisionSegmentReader.read(segment, record -> {
+                        try {
+                            output.write(jsonWriter.writeValueAsString(record));
+                            output.write('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    total += result.getRecords();
+                    if (result.isCorrupt()) {
+                        corruptSegments++;
+                        System.err.println("Stopped reading corrupt segment " + result.getCorruption());
+                    }
+                }
+            }
+
+            System.err.println("Exported " + total + " decision records from " + segments.size() + " segment(s)");
+            if (corruptSegments > 0) {
+                System.err.println(corruptSegments + " segment(s) were corrupt; records after the first bad frame were skipped");
+                System.exit(1);
+            }
+
+        } catch (Exception e) {
+            System.err.println("Error exporting decision log: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
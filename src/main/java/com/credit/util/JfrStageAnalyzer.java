@@ -0,0 +1,70 @@
+package com.credit.util;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarizes the com.credit.* events of a JFR recording into per-stage latency breakdowns.
+ * Usage: JfrStageAnalyzer &lt;recording.jfr&gt;
+ */
+public class JfrStageAnalyzer {
+    private static final String EVENT_PREFIX = "com.credit.";
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: JfrStageAnalyzer <recording.jfr>");
+            System.exit(1);
+        }
+        try {
+            Map<String, List<Long>> durationsByStage = new TreeMap<>();
+            // Stream the recording; a production recording also holds every JDK event
+            try (RecordingFile recording = new RecordingFile(Path.of(args[0]))) {
+                while (recording.hasMoreEvents()) {
+                    RecordedEvent event = recording.readEvent();
+                    String name = event.getEventType().getName();
+                    if (name.startsWith(EVENT_PREFIX)) {
+                        durationsByStage.computeIfAbsent(name.substring(EVENT_PREFIX.length()), k -> new ArrayList<>())
+                            .add(event.getDuration().toNanos());
+                    }
+                }
+            }
+
+            if (durationsByStage.isEmpty()) {
+                System.out.println("No credit stage events found; record with the credit-stages.jfc settings");
+                return;
+            }
+
+            System.out.printf("%-20s %10s %12s %12s %12s %12s %12s %14s%n",
+                "stage", "count", "mean(us)", "p50(us)", "p95(us)", "p99(us)", "max(us)", "total(ms)");
+            for (Map.Entry<String, List<Long>> entry : durationsByStage.entrySet()) {
+                List<Long> durations = entry.getValue();
+                Collections.sort(durations);
+                long total = durations.stream().mapToLong(Long::longValue).sum();
+                System.out.printf("%-20s %10d %12.1f %12.1f %12.1f %12.1f %12.1f %14.2f%n",
+                    entry.getKey(),
+                    durations.size(),
+                    total / (double) durations.size() / 1_000.0,
+                    percentile(durations, 0.50) / 1_000.0,
+                    percentile(durations, 0.95) / 1_000.0,
+                    percentile(durations, 0.99) / 1_000.0,
+                    durations.get(durations.size() - 1) / 1_000.0,
+                    total / 1_000_000.0);
+            }
+
+        } catch (Exception e) {
+            System.err.println("Error analyzing recording: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
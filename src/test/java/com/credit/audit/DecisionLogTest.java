@@ -0,0 +1,116 @@
+package com.credit.audit;
+
+import com.credit.model.CreditCategory;
+import com.credit.model.DecisionRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecisionLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fullRingTimesOutWhileWriterIsStalled() throws Exception {
+        CountDownLatch appending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DecisionLog log = new DecisionLog(true, directory.toString(), 2, 1 << 16, 1, 100) {
+            @Override
+            DecisionSegmentWriter openWriter() throws IOException {
+                return new DecisionSegmentWriter(directory, 1 << 16) {
+                    @Override
+                    public void append(DecisionRecord record) throws IOException {
+                        appending.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        super.append(record);
+                    }
+                };
+            }
+        };
+        log.start();
+        try {
+            log.record(record(0));
+            assertTrue(appending.await(5, TimeUnit.SECONDS));
+            // The writer holds record 0, so the two ring slots take records 1 and 2
+            log.record(record(1));
+            log.record(record(2));
+            assertThrows(IllegalStateException.class, () -> log.record(record(3)));
+            assertEquals(1, log.getLostCount());
+        } finally {
+            release.countDown();
+            log.stop();
+        }
+        assertEquals(3, log.getWrittenCount());
+    }
+
+    @Test
+    void stopDrainsEveryClaimedRecord() throws Exception {
+        DecisionLog log = new DecisionLog(true, directory.toString(), 64, 1 << 16, 8, 5000);
+        log.start();
+        int producers = 4;
+        int perProducer = 2000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    log.record(record(base + i));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        log.stop();
+
+        Set<Long> timestamps = new HashSet<>();
+        for (Path segment : DecisionSegmentReader.listSegments(directory)) {
+            DecisionSegmentReader.read(segment, record -> timestamps.add(record.getTimestamp()));
+        }
+        assertEquals(producers * perProducer, timestamps.size());
+        assertEquals(producers * perProducer, log.getWrittenCount());
+        assertEquals(0, log.getLostCount());
+    }
+
+    @Test
+    void recordAfterStopIsCountedAsLost() throws Exception {
+        DecisionLog log = new DecisionLog(true, directory.toString(), 64, 1 << 16, 8, 5000);
+        log.start();
+        log.record(record(0));
+        log.stop();
+        assertFalse(log.isRunning());
+
+        log.record(record(1));
+        log.record(record(2));
+        assertEquals(2, log.getLostCount());
+        assertEquals(1, log.getWrittenCount());
+    }
+
+    private static DecisionRecord record(int i) {
+        return new DecisionRecord(i, DecisionRecord.Source.PREDICT, "sha256:0123456789abcdef",
+            90000.0, 1500.0, 10, 720, i % 13,
+            List.of("travel"),
+            List.of(),
+            CreditCategory.GOOD,
+            List.of());
+    }
+}
@@ -0,0 +1,84 @@
+package com.credit.audit;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecisionRingBufferTest {
+
+    @Test
+    void rejectsOfferWhenFull() {
+        DecisionRingBuffer<Integer> ringBuffer = new DecisionRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.offer(i));
+        }
+        assertFalse(ringBuffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, ringBuffer.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3), drained);
+        assertTrue(ringBuffer.offer(4));
+    }
+
+    @Test
+    void rejectsCapacityThatIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new DecisionRingBuffer<Integer>(6));
+    }
+
+    @Test
+    void drainsEveryItemFromConcurrentProducersExactlyOnce() throws Exception {
+        int producers = 4;
+        int itemsPerProducer = 20_000;
+        DecisionRingBuffer<long[]> ringBuffer = new DecisionRingBuffer<>(64);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < itemsPerProducer; i++) {
+                    while (!ringBuffer.offer(new long[]{producer, i})) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        int[][] seen = new int[producers][itemsPerProducer];
+        int[] lastSeen = new int[producers];
+        Arrays.fill(lastSeen, -1);
+        long total = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (total < (long) producers * itemsPerProducer && System.nanoTime() < deadline) {
+            int drained = ringBuffer.drain(item -> {
+                int producer = (int) item[0];
+                int index = (int) item[1];
+                seen[producer][index]++;
+                // Items from one producer must come out in the order they went in
+                assertTrue(index > lastSeen[producer]);
+                lastSeen[producer] = index;
+            }, 16);
+            total += drained;
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertEquals((long) producers * itemsPerProducer, total);
+        for (int p = 0; p < producers; p++) {
+            for (int i = 0; i < itemsPerProducer; i++) {
+                assertEquals(1, seen[p][i], "producer " + p + " item " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.credit.audit;
+
+import com.credit.model.CreditCategory;
+import com.credit.model.DecisionRecord;
+import com.credit.model.OfferOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecisionSegmentRoundTripTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsSurviveRolloverAcrossSegments() throws Exception {
+        List<DecisionRecord> expected = new ArrayList<>();
+        try (DecisionSegmentWriter writer = new DecisionSegmentWriter(directory, 2048)) {
+            for (int i = 0; i < 200; i++) {
+                DecisionRecord record = record(i);
+                writer.append(record);
+                expected.add(record);
+            }
+        }
+
+        List<Path> segments = DecisionSegmentReader.listSegments(directory);
+        assertTrue(segments.size() > 1, "expected the writer to roll over to a new segment");
+
+        List<DecisionRecord> actual = new ArrayList<>();
+        for (Path segment : segments) {
+            DecisionSegmentReader.read(segment, actual::add);
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void newWriterStartsAfterExistingSegments() throws Exception {
+        try (DecisionSegmentWriter writer = new DecisionSegmentWriter(directory, 2048)) {
+            writer.append(record(0));
+        }
+        try (DecisionSegmentWriter writer = new DecisionSegmentWriter(directory, 2048)) {
+            writer.append(record(1));
+        }
+
+        List<Path> segments = DecisionSegmentReader.listSegments(directory);
+        assertEquals(2, segments.size());
+        List<DecisionRecord> actual = new ArrayList<>();
+        for (Path segment : segments) {
+            DecisionSegmentReader.read(segment, actual::add);
+        }
+        assertEquals(List.of(record(0), record(1)), actual);
+    }
+
+    @Test
+    void readerStopsAtFrameWithBadChecksum() throws Exception {
+        Path segment = writeThreeRecords();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long payloadOffset = secondFrameOffset(channel) + DecisionSegmentWriter.FRAME_HEADER_SIZE;
+            ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, payloadOffset);
+            b.put(0, (byte) (b.get(0) ^ 0xFF)).rewind();
+            channel.write(b, payloadOffset);
+        }
+
+        List<DecisionRecord> actual = new ArrayList<>();
+        DecisionSegmentReader.Result result = DecisionSegmentReader.read(segment, actual::add);
+        assertEquals(List.of(record(0)), actual);
+        assertEquals(1, result.getRecords());
+        assertTrue(result.isCorrupt());
+    }
+
+    @Test
+    void unpublishedFrameEndsSegmentCleanly() throws Exception {
+        Path segment = writeThreeRecords();
+        // A writer that died before publishing the length leaves the payload behind a zero length
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4), secondFrameOffset(channel));
+        }
+
+        List<DecisionRecord> actual = new ArrayList<>();
+        DecisionSegmentReader.Result result = DecisionSegmentReader.read(segment, actual::add);
+        assertEquals(List.of(record(0)), actual);
+        assertFalse(result.isCorrupt());
+    }
+
+    private Path writeThreeRecords() throws Exception {
+        try (DecisionSegmentWriter writer = new DecisionSegmentWriter(directory, 4096)) {
+            for (int i = 0; i < 3; i++) {
+                writer.append(record(i));
+            }
+        }
+        List<Path> segments = DecisionSegmentReader.listSegments(directory);
+        assertEquals(1, segments.size());
+        return segments.get(0);
+    }
+
+    private static long secondFrameOffset(FileChannel channel) throws Exception {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        channel.read(length, DecisionSegmentWriter.HEADER_SIZE);
+        return DecisionSegmentWriter.HEADER_SIZE + DecisionSegmentWriter.FRAME_HEADER_SIZE + length.getInt(0);
+    }
+
+    // Alternates populated records with ones carrying null and empty fields
+    private static DecisionRecord record(int i) {
+        if (i % 2 == 0) {
+            return new DecisionRecord(1_700_000_000_000L + i, DecisionRecord.Source.GET_RECOMMENDATIONS, "sha256:0123456789abcdef",
+                120000.5 + i, 3000.25, 12, 700 + i % 150, i % 13,
+                Arrays.asList("travel", null, "", "cashBack"),
+                List.of("OFF-PLT-2025-07", "OFFER1"),
+                null,
+                List.of(new OfferOutcome("OFF-PLT-2025-07", CreditCategory.EXCELLENT, "High"),
+                    new OfferOutcome(null, null, null)));
+        }
+        return new DecisionRecord(1_700_000_000_000L + i, DecisionRecord.Source.PREDICT, null,
+            0.0, 0.0, 0, 300, 0,
+            List.of(),
+            List.of(),
+            CreditCategory.values()[i % CreditCategory.values().length],
+            List.of());
+    }
+}
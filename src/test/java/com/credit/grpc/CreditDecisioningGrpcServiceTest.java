@@ -0,0 +1,90 @@
+package com.credit.grpc;
+
+import com.credit.audit.DecisionLog;
+import com.credit.grpc.proto.CreditDecisioningGrpc;
+import com.credit.grpc.proto.CreditProfile;
+import com.credit.grpc.proto.PredictResponse;
+import com.credit.service.CreditPredictionService;
+import com.credit.service.DecisionService;
+import com.credit.service.OfferRecommendationService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CreditDecisioningGrpcServiceTest {
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        DecisionService decisionService = new DecisionService(new CreditPredictionService(),
+            new OfferRecommendationService(), new DecisionLog(false, "decision-log", 1024, 1 << 20, 64, 5000));
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .addService(new CreditDecisioningGrpcService(decisionService))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void predictStreamAnswersEachRequestInOrder() throws Exception {
+        List<CreditProfile> requests = new ArrayList<>();
+        List<PredictResponse> expected = new ArrayList<>();
+        CreditDecisioningGrpc.CreditDecisioningBlockingStub blockingStub = CreditDecisioningGrpc.newBlockingStub(channel);
+        for (int i = 0; i < 200; i++) {
+            CreditProfile request = CreditProfile.newBuilder()
+                .setAnnualIncome(40000 + i * 500)
+                .setMonthlyDebtPayments(900)
+                .setOldestAccountAge(i % 20)
+                .setFicoScore(600 + i % 250)
+                .setMissedPayments(i % 13)
+                .build();
+            requests.add(request);
+            expected.add(blockingStub.predict(request));
+        }
+
+        List<PredictResponse> responses = new ArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        StreamObserver<CreditProfile> requestObserver = CreditDecisioningGrpc.newStub(channel)
+            .predictStream(new StreamObserver<>() {
+                @Override
+                public void onNext(PredictResponse response) {
+                    responses.add(response);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    completed.completeExceptionally(t);
+                }
+
+                @Override
+                public void onCompleted() {
+                    completed.complete(null);
+                }
+            });
+        requests.forEach(requestObserver::onNext);
+        requestObserver.onCompleted();
+
+        completed.get(10, TimeUnit.SECONDS);
+        assertEquals(expected, responses);
+    }
+}
@@ -0,0 +1,116 @@
+package com.credit.grpc;
+
+import com.credit.audit.DecisionLog;
+import com.credit.controller.CreditCardController;
+import com.credit.grpc.proto.CreditCategory;
+import com.credit.grpc.proto.CreditProfile;
+import com.credit.grpc.proto.OfferResult;
+import com.credit.grpc.proto.RecommendationsResponse;
+import com.credit.model.OfferOutcome;
+import com.credit.service.CreditCardRecommendationService;
+import com.credit.service.CreditPredictionService;
+import com.credit.service.DecisionService;
+import com.credit.service.OfferRecommendationService;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProtoMapperTest {
+
+    @Test
+    void emptyRepeatedFieldsAreLeftForTheJsonDefaults() {
+        com.credit.model.CreditProfile profile = ProtoMapper.toModel(CreditProfile.newBuilder()
+            .setFicoScore(700)
+            .build());
+        assertNull(profile.getPurchaseCategory());
+        assertNull(profile.getOffersList());
+
+        profile = ProtoMapper.toModel(CreditProfile.newBuilder()
+            .addPurchaseCategory("travel")
+            .addOffersList("OFF-PLT-2025-07")
+            .build());
+        assertEquals(List.of("travel"), profile.getPurchaseCategory());
+        assertEquals(List.of("OFF-PLT-2025-07"), profile.getOffersList());
+    }
+
+    @Test
+    void unspecifiedAndUnrecognizedCategoriesMapToNull() {
+        assertNull(ProtoMapper.toModel(CreditProfile.newBuilder()
+            .setCategory(CreditCategory.CREDIT_CATEGORY_UNSPECIFIED)
+            .build()).getCategory());
+        // A category added by a newer client arrives as UNRECOGNIZED
+        assertNull(ProtoMapper.toModel(CreditProfile.newBuilder()
+            .setCategoryValue(99)
+            .build()).getCategory());
+
+        for (com.credit.model.CreditCategory category : com.credit.model.CreditCategory.values()) {
+            assertEquals(category, ProtoMapper.toModel(CreditProfile.newBuilder()
+                .setCategory(CreditCategory.valueOf(category.name()))
+                .build()).getCategory());
+        }
+    }
+
+    @Test
+    void nullCategoryMapsToUnspecified() {
+        assertEquals(CreditCategory.CREDIT_CATEGORY_UNSPECIFIED, ProtoMapper.toPredictResponse(null).getCategory());
+        RecommendationsResponse response = ProtoMapper.toRecommendationsResponse(
+            List.of(new OfferOutcome("OFF-PLT-2025-07", null, "Low")));
+        assertEquals(CreditCategory.CREDIT_CATEGORY_UNSPECIFIED, response.getCards(0).getPredictedCategory());
+    }
+
+    @Test
+    void recommendationsMatchJsonEndpoint() {
+        DecisionService decisionService = new DecisionService(new CreditPredictionService(),
+            new OfferRecommendationService(), new DecisionLog(false, "decision-log", 1024, 1 << 20, 64, 5000));
+        CreditCardController controller = new CreditCardController(new CreditPredictionService(),
+            new CreditCardRecommendationService(), decisionService);
+
+        for (int missedPayments = 0; missedPayments <= 12; missedPayments += 3) {
+            CreditProfile proto = CreditProfile.newBuilder()
+                .setAnnualIncome(95000)
+                .setMonthlyDebtPayments(1800)
+                .setOldestAccountAge(9)
+                .setFicoScore(735)
+                .setMissedPayments(missedPayments)
+                .addPurchaseCategory("travel")
+                .addPurchaseCategory("cashBack")
+                .addOffersList("OFF-PLT-2025-07")
+                .addOffersList("OFF-CRE-2025-12")
+                .addOffersList("OFF-TMU-2025-09")
+                .addOffersList("OFF-SCB-2025-08")
+                .build();
+            com.credit.model.CreditProfile json = new com.credit.model.CreditProfile(95000, 1800, 9, 735,
+                missedPayments, null, List.of("travel", "cashBack"),
+                List.of("OFF-PLT-2025-07", "OFF-CRE-2025-12", "OFF-TMU-2025-09", "OFF-SCB-2025-08"));
+
+            List<Map<String, Object>> grpcCards = cards(ProtoMapper.toRecommendationsResponse(
+                decisionService.getRecommendations(ProtoMapper.toModel(proto))));
+            Object jsonCards = controller.getRecommendations(json).getBody().get("cards");
+            assertFalse(grpcCards.isEmpty());
+            assertEquals(jsonCards, grpcCards);
+        }
+
+        // Empty repeated fields get the same defaults as a JSON body without them
+        Object jsonDefaults = controller.getRecommendations(new com.credit.model.CreditProfile()).getBody().get("cards");
+        assertEquals(jsonDefaults, cards(ProtoMapper.toRecommendationsResponse(
+            decisionService.getRecommendations(ProtoMapper.toModel(CreditProfile.getDefaultInstance())))));
+    }
+
+    // Same shape as a /getRecommendations card
+    private static List<Map<String, Object>> cards(RecommendationsResponse response) {
+        List<Map<String, Object>> cards = new ArrayList<>();
+        for (OfferResult result : response.getCardsList()) {
+            Map<String, Object> card = new HashMap<>();
+            card.put("offerId", result.getOfferId());
+            card.put("prediction", result.getPrediction());
+            cards.add(card);
+        }
+        return cards;
+    }
+}
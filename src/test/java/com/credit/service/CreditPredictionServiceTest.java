@@ -0,0 +1,28 @@
+package com.credit.service;
+
+import com.credit.model.CreditCategory;
+import com.credit.model.CreditProfile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CreditPredictionServiceTest {
+
+    // DecisionService predicts once per /getRecommendations request, which is only valid
+    // while the category does not depend on the FICO score
+    @Test
+    void ficoScoreDoesNotChangeThePredictedCategory() {
+        CreditPredictionService service = new CreditPredictionService();
+        for (int missedPayments = 0; missedPayments <= 12; missedPayments++) {
+            CreditCategory expected = service.predictCategory(profile(300, missedPayments));
+            for (int ficoScore : new int[] {450, 650, 720, 850}) {
+                assertEquals(expected, service.predictCategory(profile(ficoScore, missedPayments)),
+                    "missedPayments=" + missedPayments + ", ficoScore=" + ficoScore);
+            }
+        }
+    }
+
+    private static CreditProfile profile(int ficoScore, int missedPayments) {
+        return new CreditProfile(85000, 2100, 7, ficoScore, missedPayments, null, null, null);
+    }
+}